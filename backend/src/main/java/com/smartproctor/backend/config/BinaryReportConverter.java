@@ -0,0 +1,70 @@
+package com.smartproctor.backend.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import com.smartproctor.backend.dto.BinaryCheatReport;
+
+// Reads application/x-proctor-report bodies without reflection.
+// Each request thread reuses one buffer and one BinaryCheatReport, so decoding allocates nothing
+// until the session id String is asked for.
+@Component
+public class BinaryReportConverter extends AbstractHttpMessageConverter<BinaryCheatReport> {
+
+	private static final ThreadLocal<byte[]> BUFFER =
+			ThreadLocal.withInitial(() -> new byte[BinaryCheatReport.MAX_SIZE + 1]);
+	private static final ThreadLocal<BinaryCheatReport> REPORT = ThreadLocal.withInitial(BinaryCheatReport::new);
+
+	public BinaryReportConverter() {
+		super(MediaType.parseMediaType(BinaryCheatReport.MEDIA_TYPE));
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return BinaryCheatReport.class == clazz;
+	}
+
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+		return false; // Request-only format
+	}
+
+	@Override
+	protected BinaryCheatReport readInternal(Class<? extends BinaryCheatReport> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		byte[] buffer = BUFFER.get();
+		InputStream body = inputMessage.getBody();
+
+		// Read one byte past the max so an oversized body is rejected instead of truncated
+		int length = 0;
+		int read;
+		while (length < buffer.length && (read = body.read(buffer, length, buffer.length - length)) != -1) {
+			length += read;
+		}
+		if (length > BinaryCheatReport.MAX_SIZE) {
+			throw new HttpMessageNotReadableException("Invalid Report Data", inputMessage);
+		}
+
+		BinaryCheatReport report = REPORT.get();
+		try {
+			report.decode(buffer, length);
+		} catch (IllegalArgumentException e) {
+			throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+		}
+		return report;
+	}
+
+	@Override
+	protected void writeInternal(BinaryCheatReport report, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		throw new HttpMessageNotWritableException("Binary reports are request-only");
+	}
+}
@@ -0,0 +1,15 @@
+package com.smartproctor.backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a read-only method that tolerates at most proctor.datasource.replica.max-staleness of lag.
+// It still reads from the replica while the measured lag (see ReplicaLagMonitor) is within that bound,
+// and falls back to the primary only when the replica is further behind or its lag is unknown.
+// This is not a strict primary read: for that, don't mark the transaction read-only.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BoundedStaleness {
+}
@@ -0,0 +1,19 @@
+package com.smartproctor.backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // Wrap the transaction so the flag is set before a connection is picked
+public class BoundedStalenessAspect {
+
+	@Around("@annotation(com.smartproctor.backend.config.BoundedStaleness) || @within(com.smartproctor.backend.config.BoundedStaleness)")
+	public Object boundStaleness(ProceedingJoinPoint joinPoint) throws Throwable {
+		return ReadWriteRoutingDataSource.withBoundedStaleness(joinPoint::proceed);
+	}
+}
@@ -0,0 +1,110 @@
+package com.smartproctor.backend.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@EnableScheduling // Drives ReplicaLagMonitor.poll()
+public class DataSourceConfig {
+
+	// --- PRIMARY (writes): the usual spring.datasource.* settings ---
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryPool(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+		return pool;
+	}
+
+	// --- REPLICA (reads): proctor.datasource.replica.*, falls back to the primary if no URL is set ---
+	@Bean
+	@ConfigurationProperties("proctor.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("proctor.datasource.replica.hikari")
+	public HikariDataSource replicaPool(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+			@Qualifier("primaryDataSourceProperties") DataSourceProperties primary) {
+		DataSourceProperties source = StringUtils.hasText(properties.getUrl()) ? properties : primary;
+		HikariDataSource pool = source.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+		return pool;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryPool") HikariDataSource primaryPool,
+			@Qualifier("replicaPool") HikariDataSource replicaPool) {
+		return new ReplicaLagMonitor(primaryPool, replicaPool);
+	}
+
+	// --- THE ROUTER: what JPA actually talks to ---
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryPool") HikariDataSource primaryPool,
+			@Qualifier("replicaPool") HikariDataSource replicaPool,
+			ReplicaLagMonitor replicaLagMonitor,
+			@Value("${proctor.datasource.replica.max-staleness:PT2S}") Duration maxStaleness) {
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(maxStaleness, replicaLagMonitor::getLagMillis);
+		routing.setTargetDataSources(Map.of(
+				ReadWriteRoutingDataSource.PRIMARY, primaryPool,
+				ReadWriteRoutingDataSource.REPLICA, replicaPool));
+		routing.setDefaultTargetDataSource(primaryPool);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	// Share of each pool's connections in use (hikaricp.connections.* has the raw counts), plus replica lag
+	@Bean
+	public MeterBinder dataSourceUtilizationMetrics(@Qualifier("primaryPool") HikariDataSource primaryPool,
+			@Qualifier("replicaPool") HikariDataSource replicaPool, ReplicaLagMonitor replicaLagMonitor) {
+		return registry -> {
+			Gauge.builder("proctor.datasource.replica.lag", replicaLagMonitor,
+							monitor -> monitor.getLagMillis() == ReplicaLagMonitor.UNKNOWN ? Double.NaN : monitor.getLagMillis())
+					.baseUnit("milliseconds")
+					.description("Replica replay lag behind the primary (NaN when it can't be measured)")
+					.register(registry);
+			for (HikariDataSource pool : new HikariDataSource[] {primaryPool, replicaPool}) {
+				Gauge.builder("proctor.datasource.utilization", pool, DataSourceConfig::utilization)
+						.tag("pool", pool.getPoolName())
+						.description("Active connections divided by maximum pool size")
+						.register(registry);
+			}
+		};
+	}
+
+	private static double utilization(HikariDataSource pool) {
+		HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+		if (mxBean == null || pool.getMaximumPoolSize() <= 0) {
+			return 0.0; // Pool not started yet
+		}
+		return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+	}
+}
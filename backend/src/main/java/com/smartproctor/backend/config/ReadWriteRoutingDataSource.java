@@ -0,0 +1,58 @@
+package com.smartproctor.backend.config;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Sends @Transactional(readOnly = true) work to the replica pool and everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only known
+// once the transaction has started, so the connection has to be picked lazily.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+	public static final String REPLICA = "replica";
+
+	// Set by @BoundedStaleness for the duration of the annotated call
+	private static final ThreadLocal<Boolean> BOUNDED_READS = ThreadLocal.withInitial(() -> false);
+
+	private final long maxStalenessMillis;
+	private final LongSupplier replicaLagMillis;
+
+	public ReadWriteRoutingDataSource(Duration maxStaleness, LongSupplier replicaLagMillis) {
+		this.maxStalenessMillis = maxStaleness.toMillis();
+		this.replicaLagMillis = replicaLagMillis;
+	}
+
+	@FunctionalInterface
+	public interface ThrowingSupplier<T> {
+		T get() throws Throwable;
+	}
+
+	public static <T> T withBoundedStaleness(ThrowingSupplier<T> work) throws Throwable {
+		boolean previous = BOUNDED_READS.get();
+		BOUNDED_READS.set(true);
+		try {
+			return work.get();
+		} finally {
+			BOUNDED_READS.set(previous);
+		}
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		// 1. Writes (and anything outside a read-only transaction) always go to the primary
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY;
+		}
+
+		// 2. Bounded reads only use the replica while its measured lag is within the bound
+		if (BOUNDED_READS.get() && replicaLagMillis.getAsLong() > maxStalenessMillis) {
+			return PRIMARY;
+		}
+
+		// 3. Everything else is safe to serve slightly stale
+		return REPLICA;
+	}
+}
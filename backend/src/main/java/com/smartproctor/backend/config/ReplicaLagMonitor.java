@@ -0,0 +1,98 @@
+package com.smartproctor.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Measures how far the replica is behind the primary, so @BoundedStaleness can compare real lag
+// against proctor.datasource.replica.max-staleness.
+//
+// Every poll remembers the primary's current WAL position with the time it was read. The replica's lag
+// is the age of the newest remembered position it has already replayed: everything committed before
+// that moment is visible on the replica. A standby whose WAL receiver isn't streaming reports UNKNOWN.
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private static final String PRIMARY_LSN_QUERY = "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint";
+
+	// -1: not a standby (replica URL falls back to the primary), -2: standby not streaming, else replayed LSN.
+	// Without pg_read_all_stats the receiver's status column is NULL, so an existing receiver row counts as streaming.
+	private static final String REPLICA_LSN_QUERY =
+			"SELECT CASE WHEN NOT pg_is_in_recovery() THEN -1 "
+			+ "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming') THEN -2 "
+			+ "ELSE pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint END";
+
+	private static final long NOT_A_STANDBY = -1;
+	private static final long NOT_STREAMING = -2;
+	private static final int HISTORY = 64;
+
+	public static final long UNKNOWN = Long.MAX_VALUE;
+
+	private final JdbcTemplate primary;
+	private final JdbcTemplate replica;
+
+	// Ring of (time, primary WAL position) samples, newest at next - 1
+	private final long[] sampleAt = new long[HISTORY];
+	private final long[] sampleLsn = new long[HISTORY];
+	private int samples;
+	private int next;
+
+	private volatile long lagMillis = UNKNOWN; // Until the first poll, assume the worst
+
+	public ReplicaLagMonitor(DataSource primary, DataSource replica) {
+		this.primary = new JdbcTemplate(primary);
+		this.replica = new JdbcTemplate(replica);
+	}
+
+	@Scheduled(fixedDelayString = "${proctor.datasource.replica.lag-poll-interval:PT1S}")
+	public void poll() {
+		try {
+			// Replica first: if it has replayed the primary's position read afterwards, it is fully caught up
+			Long replayed = replica.queryForObject(REPLICA_LSN_QUERY, Long.class);
+			if (replayed == null || replayed == NOT_STREAMING) {
+				log.warn("REPLICA_LAG: replica is not streaming from the primary");
+				lagMillis = UNKNOWN;
+				return;
+			}
+			if (replayed == NOT_A_STANDBY) {
+				lagMillis = 0;
+				return;
+			}
+			Long current = primary.queryForObject(PRIMARY_LSN_QUERY, Long.class);
+			if (current == null) {
+				lagMillis = UNKNOWN;
+				return;
+			}
+			observe(System.currentTimeMillis(), current, replayed);
+		} catch (RuntimeException e) {
+			log.warn("REPLICA_LAG: could not measure replica lag: {}", e.getMessage());
+			lagMillis = UNKNOWN;
+		}
+	}
+
+	// Records the primary's position and works out the lag from what the replica has replayed
+	synchronized void observe(long nowMillis, long primaryLsn, long replicaReplayedLsn) {
+		sampleAt[next] = nowMillis;
+		sampleLsn[next] = primaryLsn;
+		next = (next + 1) % HISTORY;
+		samples = Math.min(samples + 1, HISTORY);
+
+		// Walk back from the newest sample to the first one the replica has caught up with
+		for (int i = 1; i <= samples; i++) {
+			int index = (next - i + HISTORY) % HISTORY;
+			if (sampleLsn[index] <= replicaReplayedLsn) {
+				lagMillis = nowMillis - sampleAt[index];
+				return;
+			}
+		}
+		// Behind every sample we hold: at least as old as the oldest, or unknown if history is still short
+		lagMillis = samples == HISTORY ? nowMillis - sampleAt[next] : UNKNOWN;
+	}
+
+	public long getLagMillis() {
+		return lagMillis;
+	}
+}
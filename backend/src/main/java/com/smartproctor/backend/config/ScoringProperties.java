@@ -0,0 +1,34 @@
+package com.smartproctor.backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "proctor.scoring")
+public class ScoringProperties {
+
+	// How long it takes for a student's risk score to fall to half when they behave
+	private Duration halfLife = Duration.ofMinutes(2);
+
+	// Used for any violation type without its own entry in "policies"
+	private Policy defaultPolicy = new Policy();
+
+	// Keyed by violation type, e.g. proctor.scoring.policies[PHONE_DETECTED].weight=2.0
+	private Map<String, Policy> policies = new HashMap<>();
+
+	@Data
+	public static class Policy {
+		// Points added per violation (before confidence is applied)
+		private double weight = 1.0;
+
+		// Score at which a violation of this type bans the student
+		private double banThreshold = 3.0;
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
@@ -34,6 +35,7 @@ public class SecurityConfig {
                 // 3. ALL OTHERS LOCKED
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(new ApiKeyAuthFilter(), UsernamePasswordAuthenticationFilter.class) // Engine's X-API-KEY -> ROLE_SYSTEM
             .httpBasic(basic -> {});
 
         return http.build();
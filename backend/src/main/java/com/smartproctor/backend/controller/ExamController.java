@@ -1,12 +1,16 @@
 package com.smartproctor.backend.controller;
 
+import com.smartproctor.backend.dto.BinaryCheatReport;
 import com.smartproctor.backend.dto.CheatReportDTO;
 import com.smartproctor.backend.dto.StudentResponse;
 import com.smartproctor.backend.model.ExamSession;
 import com.smartproctor.backend.service.ExamService;
 import com.smartproctor.backend.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,6 +19,8 @@ import java.util.List;
 @RequestMapping("/api/exam")
 public class ExamController {
 
+    private static final String ENGINE_KEY_REQUIRED = "Engine API key required for reports with a student_id";
+
     @Autowired
     private ExamService examService;
 
@@ -44,8 +50,29 @@ public class ExamController {
         if (report.getSession_id() == null || report.getReason() == null) {
             return ResponseEntity.badRequest().body("Invalid Report Data");
         }
+        if (report.getStudent_id() != null && !isEngine()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ENGINE_KEY_REQUIRED);
+        }
         
         examService.logCheatIncident(report);
         return ResponseEntity.ok("Incident Logged Successfully");
     }
+
+    // --- SAME ENDPOINT, COMPACT BINARY BODY (Content-Type: application/x-proctor-report) ---
+    @PostMapping(value = "/report-cheat", consumes = BinaryCheatReport.MEDIA_TYPE)
+    public ResponseEntity<String> reportCheatBinary(@RequestBody BinaryCheatReport report) {
+        // The converter has already rejected malformed frames
+        if (report.hasStudentId() && !isEngine()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ENGINE_KEY_REQUIRED);
+        }
+        examService.logCheatIncident(report);
+        return ResponseEntity.ok("Incident Logged Successfully");
+    }
+
+    // Only the engine (X-API-KEY, see ApiKeyAuthFilter) may name a student, since those reports can ban
+    private boolean isEngine() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SYSTEM".equals(a.getAuthority()));
+    }
 }
\ No newline at end of file
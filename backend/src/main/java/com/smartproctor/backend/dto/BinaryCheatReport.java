@@ -0,0 +1,107 @@
+package com.smartproctor.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import com.smartproctor.backend.model.ConfidenceLevel;
+import com.smartproctor.backend.model.ViolationType;
+
+// Compact alternative to CheatReportDTO for the Go engine (Content-Type: application/x-proctor-report).
+// Fixed layout, big-endian:
+//   [0]     magic 'P'
+//   [1]     version (1)
+//   [2]     violation type ordinal
+//   [3]     confidence ordinal
+//   [4-11]  engine timestamp, epoch millis (informational: incidents are stamped with server time)
+//   [12-19] student id (0 = none)
+//   [20]    session id length N (1-255)
+//   [21..]  session id (exam code), ASCII
+// Instances are reused by the decoder: read what you need, don't keep a reference.
+public class BinaryCheatReport {
+
+	public static final String MEDIA_TYPE = "application/x-proctor-report";
+	public static final byte MAGIC = 'P';
+	public static final byte VERSION = 1;
+	public static final int HEADER_SIZE = 21;
+	public static final int MAX_SIZE = HEADER_SIZE + 255;
+
+	// values() clones the array on every call, so look ordinals up in a shared copy
+	private static final ViolationType[] VIOLATION_TYPES = ViolationType.values();
+	private static final ConfidenceLevel[] CONFIDENCE_LEVELS = ConfidenceLevel.values();
+
+	private ViolationType violationType;
+	private ConfidenceLevel confidence;
+	private long timestampMillis;
+	private long studentId;
+	private final byte[] sessionIdBytes = new byte[255];
+	private int sessionIdLength;
+	private String sessionId; // Built on first use
+
+	// Fills this instance from frame[0..length). Throws IllegalArgumentException on a malformed frame.
+	public void decode(byte[] frame, int length) {
+		if (length < HEADER_SIZE || frame[0] != MAGIC || frame[1] != VERSION) {
+			throw new IllegalArgumentException("Invalid Report Data");
+		}
+		int type = frame[2] & 0xFF;
+		int level = frame[3] & 0xFF;
+		int sessionLength = frame[20] & 0xFF;
+		if (type >= VIOLATION_TYPES.length || level >= CONFIDENCE_LEVELS.length
+				|| sessionLength == 0 || length != HEADER_SIZE + sessionLength) {
+			throw new IllegalArgumentException("Invalid Report Data");
+		}
+
+		this.violationType = VIOLATION_TYPES[type];
+		this.confidence = CONFIDENCE_LEVELS[level];
+		this.timestampMillis = readLong(frame, 4);
+		this.studentId = readLong(frame, 12);
+		System.arraycopy(frame, HEADER_SIZE, sessionIdBytes, 0, sessionLength);
+		this.sessionIdLength = sessionLength;
+		this.sessionId = null;
+	}
+
+	// Encoder used by tests and tools; the Go engine writes the same layout
+	public static byte[] encode(String sessionId, ViolationType violationType, ConfidenceLevel confidence,
+			long timestampMillis, long studentId) {
+		byte[] session = sessionId.getBytes(StandardCharsets.US_ASCII);
+		if (session.length == 0 || session.length > 255) {
+			throw new IllegalArgumentException("Session id must be 1-255 characters");
+		}
+		byte[] frame = new byte[HEADER_SIZE + session.length];
+		frame[0] = MAGIC;
+		frame[1] = VERSION;
+		frame[2] = (byte) violationType.ordinal();
+		frame[3] = (byte) confidence.ordinal();
+		writeLong(frame, 4, timestampMillis);
+		writeLong(frame, 12, studentId);
+		frame[20] = (byte) session.length;
+		System.arraycopy(session, 0, frame, HEADER_SIZE, session.length);
+		return frame;
+	}
+
+	public ViolationType getViolationType() { return violationType; }
+	public ConfidenceLevel getConfidence() { return confidence; }
+	public long getTimestampMillis() { return timestampMillis; }
+	public long getStudentId() { return studentId; }
+	public boolean hasStudentId() { return studentId != 0; }
+
+	public String getSessionId() {
+		if (sessionId == null) {
+			sessionId = new String(sessionIdBytes, 0, sessionIdLength, StandardCharsets.US_ASCII);
+		}
+		return sessionId;
+	}
+
+	private static long readLong(byte[] b, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (b[offset + i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static void writeLong(byte[] b, int offset, long value) {
+		for (int i = 7; i >= 0; i--) {
+			b[offset + i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+}
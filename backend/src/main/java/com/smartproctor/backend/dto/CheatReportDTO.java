@@ -5,6 +5,7 @@ public class CheatReportDTO {
     private String reason;     // e.g., "LOOKING_AWAY"
     private String timestamp;
     private String confidence;
+    private Long student_id;   // Optional: lets the report count towards the student's risk score
 
     // Default Constructor
     public CheatReportDTO() {}
@@ -41,4 +42,12 @@ public class CheatReportDTO {
     public void setConfidence(String confidence) {
         this.confidence = confidence;
     }
+
+    public Long getStudent_id() {
+        return student_id;
+    }
+
+    public void setStudent_id(Long student_id) {
+        this.student_id = student_id;
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ public class StudentResponse {
 	private Long id;
 	private String name;
 	private String email;
-	private int StrikeCount;
+	private double riskScore;  // Current decayed score from ViolationScoringService
+	private double riskLimit;  // Score at which the default policy bans
 	private boolean isBanned;
 }
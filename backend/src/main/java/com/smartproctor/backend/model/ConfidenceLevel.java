@@ -0,0 +1,44 @@
+package com.smartproctor.backend.model;
+
+import java.util.Locale;
+
+// The engine's certainty about a violation, and how much it counts towards the risk score
+public enum ConfidenceLevel {
+	LOW(0.25),
+	MEDIUM(0.5),
+	HIGH(1.0);
+
+	private final double weight;
+
+	ConfidenceLevel(double weight) {
+		this.weight = weight;
+	}
+
+	public double getWeight() {
+		return weight;
+	}
+
+	// Accepts either a level name ("HIGH") or a raw probability ("0.87").
+	// Anything unreadable falls back to MEDIUM so a bad payload never zeroes out a violation.
+	public static double parseWeight(String confidence) {
+		if (confidence == null || confidence.isBlank()) {
+			return MEDIUM.weight;
+		}
+		String value = confidence.trim();
+		switch (value.toUpperCase(Locale.ROOT)) {
+			case "LOW": return LOW.weight;
+			case "MEDIUM": return MEDIUM.weight;
+			case "HIGH": return HIGH.weight;
+			default: break;
+		}
+		try {
+			double numeric = Double.parseDouble(value);
+			if (Double.isNaN(numeric)) {
+				return MEDIUM.weight;
+			}
+			return Math.max(0.0, Math.min(1.0, numeric));
+		} catch (NumberFormatException e) {
+			return MEDIUM.weight;
+		}
+	}
+}
@@ -25,9 +25,7 @@ public class Student {
 	
 	// The Reference "Image" we compare against
 	private String profileImageUrl;
-	//The Record
-	private int strikeCount = 0;
-	
+	//The Record (the risk score itself lives in memory, see ViolationScoringService)
 	private boolean isBanned = false;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
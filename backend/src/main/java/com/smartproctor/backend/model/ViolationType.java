@@ -0,0 +1,9 @@
+package com.smartproctor.backend.model;
+
+// What the engine saw. The ordinal is the wire code in the binary report format,
+// so only ever append new types at the end.
+public enum ViolationType {
+	LOOKING_AWAY,
+	PHONE_DETECTED,
+	NO_FACE
+}
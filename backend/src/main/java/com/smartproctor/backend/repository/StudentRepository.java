@@ -1,9 +1,13 @@
 package com.smartproctor.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.smartproctor.backend.model.Student;
 
@@ -11,4 +15,13 @@ import com.smartproctor.backend.model.Student;
 public interface StudentRepository extends JpaRepository<Student, Long> {
 	// Magic Method: Spring reads "findByEmail" and writes the SQL for you.
 	Optional<Student> findByEmail(String email);
+
+	// Not read-only on purpose: this runs on the primary, so a student who registered a moment ago is included
+	@Transactional
+	@Query("select s.id from Student s where s.examSession.examCode = :examCode")
+	List<Long> findIdsByExamCode(@Param("examCode") String examCode);
+
+	// Single-student roster check, also on the primary
+	@Transactional
+	boolean existsByIdAndExamSession_ExamCode(Long id, String examCode);
 }
@@ -0,0 +1,61 @@
+package com.smartproctor.backend.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.smartproctor.backend.repository.StudentRepository;
+
+// In-memory "who is sitting which exam", so checking a report's student_id costs no DB read.
+// A roster is loaded once per exam on first use, kept current by registerStudent,
+// and topped up from the primary when a student it hasn't seen yet is reported.
+@Component
+public class ExamRoster {
+	private final StudentRepository studentRepository;
+	private final Map<String, Set<Long>> rosters = new ConcurrentHashMap<>();
+
+	public ExamRoster(StudentRepository studentRepository) {
+		this.studentRepository = studentRepository;
+	}
+
+	public boolean isRegistered(String examCode, long studentId) {
+		Set<Long> roster = rosters.get(examCode);
+		if (roster == null) {
+			roster = load(examCode);
+			if (!roster.isEmpty()) {
+				// Don't cache unknown exam codes, or made-up codes would fill the map
+				Set<Long> existing = rosters.putIfAbsent(examCode, roster);
+				if (existing != null) {
+					roster = existing;
+				}
+			}
+		}
+		if (roster.contains(studentId)) {
+			return true;
+		}
+
+		// Miss: the student may have registered after the roster was loaded (on another instance,
+		// straight in the DB, or racing this load). Ask the primary about this one id before rejecting.
+		if (!studentRepository.existsByIdAndExamSession_ExamCode(studentId, examCode)) {
+			return false;
+		}
+		rosters.computeIfAbsent(examCode, code -> ConcurrentHashMap.newKeySet()).add(studentId);
+		return true;
+	}
+
+	public void register(String examCode, long studentId) {
+		// If the exam isn't cached yet, the first lookup will load this student from the DB
+		Set<Long> roster = rosters.get(examCode);
+		if (roster != null) {
+			roster.add(studentId);
+		}
+	}
+
+	private Set<Long> load(String examCode) {
+		Set<Long> roster = ConcurrentHashMap.newKeySet();
+		roster.addAll(studentRepository.findIdsByExamCode(examCode));
+		return roster;
+	}
+}
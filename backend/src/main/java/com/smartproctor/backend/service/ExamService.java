@@ -1,17 +1,25 @@
 package com.smartproctor.backend.service;
 
+import com.smartproctor.backend.dto.BinaryCheatReport;
 import com.smartproctor.backend.dto.CheatReportDTO;
 import com.smartproctor.backend.model.CheatIncident;
+import com.smartproctor.backend.model.ConfidenceLevel;
 import com.smartproctor.backend.model.ExamSession;
 import com.smartproctor.backend.repository.CheatIncidentRepository;
 import com.smartproctor.backend.repository.ExamSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Service
+@Slf4j
 public class ExamService {
 
     @Autowired
@@ -20,6 +28,15 @@ public class ExamService {
     @Autowired
     private CheatIncidentRepository incidentRepository;
 
+    @Autowired
+    private ViolationScoringService scoringService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private ExamRoster examRoster;
+
     // --- EXISTING METHODS (Do not delete these) ---
     public ExamSession createExam(ExamSession exam) {
         return examRepository.save(exam);
@@ -29,21 +46,63 @@ public class ExamService {
         return examRepository.findAll();
     }
     
+    @Transactional(readOnly = true) // Served by the replica pool
     public List<ExamSession> getActiveExams() {
         return examRepository.findByIsActiveTrue();
     }
 
     // --- NEW METHOD FOR GO ENGINE ---
     public void logCheatIncident(CheatReportDTO report) {
-        System.out.println("⚠️ VIOLATION RECEIVED FROM GO: " + report.getReason());
+        ingest(report.getSession_id(), report.getReason(), report.getConfidence(),
+                ConfidenceLevel.parseWeight(report.getConfidence()), report.getStudent_id());
+    }
 
+    // Compact binary reports take the same path; enum names keep the stored values identical to JSON
+    public void logCheatIncident(BinaryCheatReport report) {
+        ingest(report.getSessionId(), report.getViolationType().name(), report.getConfidence().name(),
+                report.getConfidence().getWeight(), report.hasStudentId() ? report.getStudentId() : null);
+    }
+
+    // One clock for both the stored incident time and the risk score: the server's, never the engine's
+    private void ingest(String examCode, String violationType, String confidence, double confidenceWeight, Long studentId) {
+        if (studentId != null) {
+            requireRegistered(examCode, studentId);
+        }
+        log.info("VIOLATION_RECEIVED: {} in Exam Session {}", violationType, examCode);
+
+        long now = System.currentTimeMillis();
         CheatIncident incident = new CheatIncident(
-                report.getSession_id(),
-                report.getReason(),
-                LocalDateTime.now(), 
-                report.getConfidence()
+                examCode,
+                violationType,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()),
+                confidence
         );
 
         incidentRepository.save(incident);
+
+        // Reports that name a student feed the risk score; the policy decides when to ban
+        if (studentId != null) {
+            banIfTriggered(studentId, scoringService.record(studentId, violationType, confidenceWeight, now));
+        }
+    }
+
+    // Checked before anything is saved, so a forged student_id is rejected outright
+    private void requireRegistered(String examCode, long studentId) {
+        if (!examRoster.isRegistered(examCode, studentId)) {
+            throw new RuntimeException("Student " + studentId + " is not registered for exam " + examCode);
+        }
+    }
+
+    private void banIfTriggered(Long studentId, ViolationScoringService.ScoreDecision decision) {
+        if (!decision.banTriggered()) {
+            return;
+        }
+        try {
+            studentService.terminateExam(studentId);
+        } catch (RuntimeException e) {
+            // The ban never reached the DB: re-arm it so the next violation tries again
+            scoringService.releaseBan(studentId);
+            throw e;
+        }
     }
 }
\ No newline at end of file
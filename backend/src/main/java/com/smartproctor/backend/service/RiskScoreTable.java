@@ -0,0 +1,132 @@
+package com.smartproctor.backend.service;
+
+// Open-addressing map from student id to (score, last update, banned).
+// Keys and values live in parallel primitive arrays so an update never boxes or allocates.
+// Not thread-safe: ViolationScoringService guards every call.
+class RiskScoreTable {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	// Decides which entries survive a sweep
+	@FunctionalInterface
+	interface EntryFilter {
+		boolean keep(double score, long updatedAt);
+	}
+
+	private long[] keys;
+	private double[] scores;
+	private long[] updatedAt;
+	private boolean[] banned;
+	private boolean[] used;
+	private int size;
+
+	RiskScoreTable() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	// Returns -1 if the student has never been scored (or was evicted)
+	int find(long studentId) {
+		int mask = keys.length - 1;
+		int slot = mix(studentId) & mask;
+		while (used[slot]) {
+			if (keys[slot] == studentId) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	// True when the next insert would push the table past half full
+	boolean isFull() {
+		return (size + 1) * 2 > keys.length;
+	}
+
+	// Adds a new, empty entry; the caller has already checked find()
+	int insert(long studentId, long nowMillis) {
+		if (isFull()) {
+			grow();
+		}
+		int mask = keys.length - 1;
+		int slot = mix(studentId) & mask;
+		while (used[slot]) {
+			slot = (slot + 1) & mask;
+		}
+		used[slot] = true;
+		keys[slot] = studentId;
+		updatedAt[slot] = nowMillis;
+		size++;
+		return slot;
+	}
+
+	double score(int slot) { return scores[slot]; }
+	long updatedAt(int slot) { return updatedAt[slot]; }
+	boolean isBanned(int slot) { return banned[slot]; }
+
+	void update(int slot, double score, long nowMillis) {
+		scores[slot] = score;
+		updatedAt[slot] = nowMillis;
+	}
+
+	void setBanned(int slot, boolean value) {
+		banned[slot] = value;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int capacity() {
+		return keys.length;
+	}
+
+	void grow() {
+		rehash(keys.length * 2, (score, at) -> true);
+	}
+
+	// Drops every entry the filter rejects, keeping the current capacity
+	void retain(EntryFilter filter) {
+		rehash(keys.length, filter);
+	}
+
+	private void rehash(int capacity, EntryFilter filter) {
+		long[] oldKeys = keys;
+		double[] oldScores = scores;
+		long[] oldUpdatedAt = updatedAt;
+		boolean[] oldBanned = banned;
+		boolean[] oldUsed = used;
+
+		allocate(capacity);
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (!oldUsed[i] || !filter.keep(oldScores[i], oldUpdatedAt[i])) {
+				continue;
+			}
+			int slot = mix(oldKeys[i]) & mask;
+			while (used[slot]) {
+				slot = (slot + 1) & mask;
+			}
+			used[slot] = true;
+			keys[slot] = oldKeys[i];
+			scores[slot] = oldScores[i];
+			updatedAt[slot] = oldUpdatedAt[i];
+			banned[slot] = oldBanned[i];
+			size++;
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		scores = new double[capacity];
+		updatedAt = new long[capacity];
+		banned = new boolean[capacity];
+		used = new boolean[capacity];
+		size = 0;
+	}
+
+	// Database ids are sequential, so spread them before masking to avoid long probe runs
+	private static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.smartproctor.backend.config.BoundedStaleness;
 import com.smartproctor.backend.dto.StudentResponse;
 import com.smartproctor.backend.model.ExamSession;
 import com.smartproctor.backend.model.Student;
@@ -21,32 +22,16 @@ import lombok.extern.slf4j.Slf4j;
 public class StudentService {
 	private final StudentRepository studentRepository;
 	private final ExamSessionRepository examSessionRepository;
+	private final ExamRoster examRoster;
+	private final ViolationScoringService scoringService;
 	
 	//Dependency Injection: Spring gives us the Repository automatically
-	public StudentService(StudentRepository studentRepository, ExamSessionRepository examSessionRepository) {
+	public StudentService(StudentRepository studentRepository, ExamSessionRepository examSessionRepository,
+			ExamRoster examRoster, ViolationScoringService scoringService) {
 		this.studentRepository = studentRepository;
 		this.examSessionRepository = examSessionRepository;
-	}
-	
-	//Logic: The "The Three Strikes" Rule
-	@Transactional //Ensure the database update is safe
-	public int addStrike(Long studentId) {
-		// 1. Find the student
-		Student student = studentRepository.findById(studentId).orElseThrow(() -> new RuntimeException("Student Not Found"));
-		
-		// 2. Increase strike count
-		int newCount = student.getStrikeCount() + 1;
-		student.setStrikeCount(newCount);
-		
-		// 3. Check for Ban Threshold (3 strikes)
-		if(newCount >= 3) {
-			terminateExam(studentId);
-		}
-		
-		// 4. Save changes
-		studentRepository.save(student);
-		
-		return newCount;
+		this.examRoster = examRoster;
+		this.scoringService = scoringService;
 	}
 	
 	// LOGIC: The "Red Card" (Ban)
@@ -75,9 +60,12 @@ public class StudentService {
 		s.setEmail(email);
 		s.setExamSession(session);
 		
-		return studentRepository.save(s);
+		Student saved = studentRepository.save(s);
+		examRoster.register(examCode, saved.getId());
+		return saved;
 	}
 	
+	@Transactional(readOnly = true) // Served by the replica pool
 	public List<StudentResponse> getStudentsByExam(String examCode){
 		// 1. Find the exam
 		ExamSession session = examSessionRepository.findByExamCode(examCode)
@@ -88,23 +76,27 @@ public class StudentService {
 			dto.setId(student.getId());
 			dto.setName(student.getFullName());
 			dto.setEmail(student.getEmail());
-			dto.setStrikeCount(student.getStrikeCount());
+			setRisk(dto, student.getId());
 			dto.setBanned(student.isBanned());
 			return dto;
 		}).collect(Collectors.toList());
 	}
 	
+	// The dashboard polls this to find out about a ban, so don't serve it from a lagging replica
+	@BoundedStaleness
+	@Transactional(readOnly = true)
 	public StudentResponse getStudentStatus(Long studentId) {
 		Student student = studentRepository.findById(studentId)
 				.orElseThrow(() -> new RuntimeException("Student not found"));
 		StudentResponse dto = new StudentResponse();
 		dto.setId(student.getId());
 		dto.setName(student.getFullName());
-		dto.setStrikeCount(student.getStrikeCount());
+		setRisk(dto, student.getId());
 		dto.setBanned(student.isBanned());
 		return dto;
 	}
 	
+	@Transactional(readOnly = true)
 	public List<Map<String, String>> getActiveExams() {
 		return examSessionRepository.findAll().stream()
 				.filter(ExamSession::isActive)
@@ -116,4 +108,10 @@ public class StudentService {
 				})
 				.collect(Collectors.toList());
 	}
+	
+	// Risk replaces the old flat strike count: bans come from the scoring policies now
+	private void setRisk(StudentResponse dto, Long studentId) {
+		dto.setRiskScore(scoringService.currentScore(studentId, System.currentTimeMillis()));
+		dto.setRiskLimit(scoringService.getRiskLimit());
+	}
 }
@@ -0,0 +1,119 @@
+package com.smartproctor.backend.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.smartproctor.backend.config.ScoringProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class ViolationScoringService {
+
+	// Result of scoring one violation
+	public record ScoreDecision(double score, boolean banTriggered) {}
+
+	// Below this a student's history no longer matters and their entry can be evicted
+	static final double NEGLIGIBLE_SCORE = 0.01;
+
+	private final RiskScoreTable table = new RiskScoreTable();
+	private final Map<String, ScoringProperties.Policy> policies = new HashMap<>();
+	private final ScoringProperties.Policy defaultPolicy;
+	// Decay rate per millisecond: score * exp(-lambda * dt) halves every half-life
+	private final double decayPerMilli;
+	private int sweeps;
+
+	public ViolationScoringService(ScoringProperties properties) {
+		// Policies are resolved once at startup so the hot path never touches the DB or the binder
+		properties.getPolicies().forEach((type, policy) -> policies.put(type.toUpperCase(Locale.ROOT), policy));
+		this.defaultPolicy = properties.getDefaultPolicy();
+		long halfLifeMillis = Math.max(1L, properties.getHalfLife().toMillis());
+		this.decayPerMilli = Math.log(2) / halfLifeMillis;
+	}
+
+	// LOGIC: decay the old score to "now", add the weighted violation, then ask the policy
+	public synchronized ScoreDecision record(long studentId, String violationType, double confidenceWeight, long nowMillis) {
+		ScoringProperties.Policy policy = policyFor(violationType);
+		int slot = slotFor(studentId, nowMillis);
+
+		double score = decayed(slot, nowMillis) + policy.getWeight() * confidenceWeight;
+		table.update(slot, score, nowMillis);
+
+		// Only report the ban once; releaseBan() re-arms it if the ban could not be saved
+		if (table.isBanned(slot) || score < policy.getBanThreshold()) {
+			return new ScoreDecision(score, false);
+		}
+		table.setBanned(slot, true);
+		log.warn("RISK_THRESHOLD: Student ID {} reached score {} on {}", studentId, score, violationType);
+		return new ScoreDecision(score, true);
+	}
+
+	// Called when terminateExam failed, so the next violation triggers the ban again
+	public synchronized void releaseBan(long studentId) {
+		int slot = table.find(studentId);
+		if (slot >= 0) {
+			table.setBanned(slot, false);
+		}
+	}
+
+	// Current score decayed to "now", or 0 if the student has never been reported
+	public synchronized double currentScore(long studentId, long nowMillis) {
+		int slot = table.find(studentId);
+		return slot < 0 ? 0.0 : decayed(slot, nowMillis);
+	}
+
+	// Ban threshold of the default policy, used as the scale for the dashboard's risk meter
+	public double getRiskLimit() {
+		return defaultPolicy.getBanThreshold();
+	}
+
+	synchronized int trackedStudents() {
+		return table.size();
+	}
+
+	synchronized int sweepCount() {
+		return sweeps;
+	}
+
+	private int slotFor(long studentId, long nowMillis) {
+		int slot = table.find(studentId);
+		if (slot >= 0) {
+			return slot;
+		}
+		// Before growing, drop students whose score has decayed to nothing.
+		// If the sweep leaves the table over 3/8 full, grow anyway: the next sweep is then at least
+		// capacity/8 inserts away, so the O(capacity) sweep stays O(1) per insert on average.
+		if (table.isFull()) {
+			table.retain((score, updatedAt) -> decayed(score, updatedAt, nowMillis) >= NEGLIGIBLE_SCORE);
+			sweeps++;
+			if (table.size() * 8 > table.capacity() * 3) {
+				table.grow();
+			}
+		}
+		return table.insert(studentId, nowMillis);
+	}
+
+	private double decayed(int slot, long nowMillis) {
+		return decayed(table.score(slot), table.updatedAt(slot), nowMillis);
+	}
+
+	private double decayed(double score, long updatedAt, long nowMillis) {
+		long elapsed = Math.max(0L, nowMillis - updatedAt);
+		return score * Math.exp(-decayPerMilli * elapsed);
+	}
+
+	private ScoringProperties.Policy policyFor(String violationType) {
+		if (violationType == null) {
+			return defaultPolicy;
+		}
+		ScoringProperties.Policy policy = policies.get(violationType);
+		if (policy == null) {
+			policy = policies.getOrDefault(violationType.toUpperCase(Locale.ROOT), defaultPolicy);
+		}
+		return policy;
+	}
+}
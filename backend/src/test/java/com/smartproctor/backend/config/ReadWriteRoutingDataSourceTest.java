@@ -0,0 +1,98 @@
+package com.smartproctor.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private AtomicLong replicaLag;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Two stand-in "databases" so we can see which pool each connection came from
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        replicaLag = new AtomicLong(0);
+        routing = new ReadWriteRoutingDataSource(Duration.ofSeconds(2), replicaLag::get);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void testReadOnlyTransaction_UsesReplica() throws Exception {
+        // GIVEN
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // WHEN / THEN
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void testWriteTransaction_UsesPrimary() throws Exception {
+        // GIVEN
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // WHEN / THEN
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void testBoundedRead_UsesReplicaWhileLagWithinBound() throws Throwable {
+        // GIVEN
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaLag.set(Duration.ofSeconds(1).toMillis());
+
+        // WHEN / THEN
+        assertSame(replicaConnection, ReadWriteRoutingDataSource.withBoundedStaleness(routing::getConnection));
+    }
+
+    @Test
+    void testBoundedRead_UsesPrimaryWhenReplicaLagsOrIsUnmeasured() throws Throwable {
+        // GIVEN
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // WHEN: the replica is further behind than the bound
+        replicaLag.set(Duration.ofSeconds(5).toMillis());
+
+        // THEN: bounded reads go to the primary, ordinary reads still go to the replica
+        assertSame(primaryConnection, ReadWriteRoutingDataSource.withBoundedStaleness(routing::getConnection));
+        assertSame(replicaConnection, routing.getConnection());
+
+        // WHEN: the lag could not be measured at all
+        replicaLag.set(ReplicaLagMonitor.UNKNOWN);
+
+        // THEN
+        assertSame(primaryConnection, ReadWriteRoutingDataSource.withBoundedStaleness(routing::getConnection));
+    }
+}
@@ -0,0 +1,66 @@
+package com.smartproctor.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaLagMonitorTest {
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(mock(DataSource.class), mock(DataSource.class));
+    }
+
+    @Test
+    void testObserve_CaughtUpReplicaHasNoLag() {
+        // WHEN
+        monitor.observe(1_000L, 500L, 500L);
+
+        // THEN
+        assertEquals(0L, monitor.getLagMillis());
+    }
+
+    @Test
+    void testObserve_LagIsAgeOfNewestReplayedPosition() {
+        // GIVEN: the primary moves on every second
+        monitor.observe(1_000L, 100L, 100L);
+        monitor.observe(2_000L, 200L, 100L);
+        monitor.observe(3_000L, 300L, 100L);
+
+        // WHEN: the replica has replayed up to the second sample
+        monitor.observe(4_000L, 400L, 250L);
+
+        // THEN
+        assertEquals(2_000L, monitor.getLagMillis());
+    }
+
+    @Test
+    void testObserve_StalledReplicaKeepsFallingBehind() {
+        // GIVEN: a replica that stopped replaying at position 100
+        monitor.observe(1_000L, 100L, 100L);
+
+        // WHEN: the primary keeps writing
+        monitor.observe(6_000L, 900L, 100L);
+        long afterFive = monitor.getLagMillis();
+        monitor.observe(11_000L, 1_500L, 100L);
+
+        // THEN
+        assertEquals(5_000L, afterFive);
+        assertEquals(10_000L, monitor.getLagMillis());
+    }
+
+    @Test
+    void testObserve_BehindAllHistoryIsUnknownUntilHistoryIsFull() {
+        // WHEN: the very first sample is already ahead of the replica
+        monitor.observe(1_000L, 100L, 50L);
+
+        // THEN
+        assertEquals(ReplicaLagMonitor.UNKNOWN, monitor.getLagMillis());
+    }
+}
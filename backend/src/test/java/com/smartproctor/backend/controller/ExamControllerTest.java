@@ -0,0 +1,120 @@
+package com.smartproctor.backend.controller;
+
+import com.smartproctor.backend.config.BinaryReportConverter;
+import com.smartproctor.backend.config.SecurityConfig;
+import com.smartproctor.backend.dto.BinaryCheatReport;
+import com.smartproctor.backend.dto.CheatReportDTO;
+import com.smartproctor.backend.model.ConfidenceLevel;
+import com.smartproctor.backend.model.ViolationType;
+import com.smartproctor.backend.service.ExamService;
+import com.smartproctor.backend.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ExamController.class)
+@Import({SecurityConfig.class, BinaryReportConverter.class})
+class ExamControllerTest {
+
+    private static final String ENGINE_KEY = "PROCTOR_SECURE_123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExamService examService;
+
+    @MockitoBean
+    private StudentService studentService;
+
+    private static byte[] frame(long studentId) {
+        return BinaryCheatReport.encode("TEST_101", ViolationType.PHONE_DETECTED, ConfidenceLevel.HIGH,
+                1_760_000_000_000L, studentId);
+    }
+
+    @Test
+    void testReportCheat_JsonStillReachesJsonHandler() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"session_id\":\"TEST_101\",\"reason\":\"LOOKING_AWAY\",\"confidence\":\"HIGH\"}"))
+                .andExpect(status().isOk());
+
+        verify(examService).logCheatIncident(any(CheatReportDTO.class));
+        verify(examService, never()).logCheatIncident(any(BinaryCheatReport.class));
+    }
+
+    @Test
+    void testReportCheat_BinaryReachesBinaryHandler() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .contentType(BinaryCheatReport.MEDIA_TYPE)
+                        .content(frame(0L)))
+                .andExpect(status().isOk());
+
+        verify(examService).logCheatIncident(any(BinaryCheatReport.class));
+        verify(examService, never()).logCheatIncident(any(CheatReportDTO.class));
+    }
+
+    @Test
+    void testReportCheat_RejectsOversizedBinaryBody() throws Exception {
+        // GIVEN: a valid frame followed by more bytes than any frame can hold
+        byte[] frame = frame(0L);
+        byte[] oversized = Arrays.copyOf(frame, BinaryCheatReport.MAX_SIZE + 10);
+
+        // WHEN / THEN
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .contentType(BinaryCheatReport.MEDIA_TYPE)
+                        .content(oversized))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(examService);
+    }
+
+    @Test
+    void testReportCheat_RejectsShortBinaryBody() throws Exception {
+        // GIVEN: the body ends inside the header
+        byte[] truncated = Arrays.copyOf(frame(0L), BinaryCheatReport.HEADER_SIZE - 5);
+
+        // WHEN / THEN
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .contentType(BinaryCheatReport.MEDIA_TYPE)
+                        .content(truncated))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(examService);
+    }
+
+    @Test
+    void testReportCheat_BinaryWithStudentNeedsEngineKey() throws Exception {
+        // WHEN: no API key
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .contentType(BinaryCheatReport.MEDIA_TYPE)
+                        .content(frame(42L)))
+                .andExpect(status().isForbidden());
+
+        // THEN
+        verifyNoInteractions(examService);
+
+        // WHEN: the engine's key
+        mockMvc.perform(post("/api/exam/report-cheat")
+                        .header("X-API-KEY", ENGINE_KEY)
+                        .contentType(BinaryCheatReport.MEDIA_TYPE)
+                        .content(frame(42L)))
+                .andExpect(status().isOk());
+
+        // THEN
+        verify(examService).logCheatIncident(any(BinaryCheatReport.class));
+    }
+}
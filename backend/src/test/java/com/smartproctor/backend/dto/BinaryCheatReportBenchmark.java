@@ -0,0 +1,75 @@
+package com.smartproctor.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartproctor.backend.model.ConfidenceLevel;
+import com.smartproctor.backend.model.ViolationType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not part of "mvn test": run with "mvn test -Pbenchmark"
+// Reports bytes on the wire, ns/decode and allocated bytes/decode for the JSON and binary paths.
+class BinaryCheatReportBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    // The same violation in both formats, JSON exactly as the Go engine sends it today
+    private static final byte[] JSON = ("{\"session_id\":\"TEST_101\",\"reason\":\"LOOKING_AWAY\","
+            + "\"timestamp\":\"2025-10-09T08:53:20.000Z\",\"confidence\":\"HIGH\",\"student_id\":42}")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BINARY = BinaryCheatReport.encode("TEST_101", ViolationType.LOOKING_AWAY,
+            ConfidenceLevel.HIGH, 1_760_000_000_000L, 42L);
+
+    @FunctionalInterface
+    private interface Decode {
+        long run() throws Exception;
+    }
+
+    private record Result(double nanosPerOp, double bytesPerOp) {}
+
+    @Test
+    void benchmarkDecode_BinaryVersusJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        BinaryCheatReport report = new BinaryCheatReport();
+
+        Result json = measure(() -> mapper.readValue(JSON, CheatReportDTO.class).getReason().length());
+        Result binary = measure(() -> {
+            report.decode(BINARY, BINARY.length);
+            return report.getSessionId().length();
+        });
+
+        System.out.printf("JSON:   %4d bytes on the wire, %7.1f ns/decode, %7.1f B allocated/decode%n",
+                JSON.length, json.nanosPerOp(), json.bytesPerOp());
+        System.out.printf("Binary: %4d bytes on the wire, %7.1f ns/decode, %7.1f B allocated/decode%n",
+                BINARY.length, binary.nanosPerOp(), binary.bytesPerOp());
+
+        assertTrue(BINARY.length * 3 < JSON.length, "Binary frame should be well under a third of the JSON size");
+        assertTrue(binary.nanosPerOp() < json.nanosPerOp(), "Binary decode should beat Jackson binding");
+        assertTrue(binary.bytesPerOp() < json.bytesPerOp(), "Binary decode should allocate less than Jackson binding");
+    }
+
+    private static Result measure(Decode decode) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += decode.run();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += decode.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertTrue(sink > 0); // Keeps the JIT from discarding the decode work
+        return new Result((double) elapsed / ITERATIONS, (double) allocated / ITERATIONS);
+    }
+}
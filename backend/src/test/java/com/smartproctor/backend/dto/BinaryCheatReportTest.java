@@ -0,0 +1,67 @@
+package com.smartproctor.backend.dto;
+
+import com.smartproctor.backend.model.ConfidenceLevel;
+import com.smartproctor.backend.model.ViolationType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCheatReportTest {
+
+    private static final long TIMESTAMP = 1_760_000_000_000L;
+
+    @Test
+    void testDecode_RoundTrip() {
+        // GIVEN
+        byte[] frame = BinaryCheatReport.encode("TEST_101", ViolationType.PHONE_DETECTED,
+                ConfidenceLevel.HIGH, TIMESTAMP, 42L);
+        BinaryCheatReport report = new BinaryCheatReport();
+
+        // WHEN
+        report.decode(frame, frame.length);
+
+        // THEN
+        assertEquals("TEST_101", report.getSessionId());
+        assertEquals(ViolationType.PHONE_DETECTED, report.getViolationType());
+        assertEquals(ConfidenceLevel.HIGH, report.getConfidence());
+        assertEquals(TIMESTAMP, report.getTimestampMillis());
+        assertEquals(42L, report.getStudentId());
+        assertTrue(report.hasStudentId());
+    }
+
+    @Test
+    void testDecode_ReusedRecordDropsPreviousSessionId() {
+        // GIVEN
+        BinaryCheatReport report = new BinaryCheatReport();
+        byte[] first = BinaryCheatReport.encode("FIRST_EXAM", ViolationType.NO_FACE, ConfidenceLevel.LOW, TIMESTAMP, 0L);
+        byte[] second = BinaryCheatReport.encode("AI", ViolationType.LOOKING_AWAY, ConfidenceLevel.MEDIUM, TIMESTAMP, 0L);
+
+        // WHEN
+        report.decode(first, first.length);
+        report.getSessionId();
+        report.decode(second, second.length);
+
+        // THEN
+        assertEquals("AI", report.getSessionId());
+        assertFalse(report.hasStudentId());
+    }
+
+    @Test
+    void testDecode_RejectsMalformedFrames() {
+        BinaryCheatReport report = new BinaryCheatReport();
+        byte[] frame = BinaryCheatReport.encode("TEST_101", ViolationType.NO_FACE, ConfidenceLevel.LOW, TIMESTAMP, 1L);
+
+        // Truncated
+        assertThrows(IllegalArgumentException.class, () -> report.decode(frame, frame.length - 1));
+
+        // Unknown violation type
+        byte[] badType = frame.clone();
+        badType[2] = (byte) ViolationType.values().length;
+        assertThrows(IllegalArgumentException.class, () -> report.decode(badType, badType.length));
+
+        // Wrong magic
+        byte[] badMagic = frame.clone();
+        badMagic[0] = '{';
+        assertThrows(IllegalArgumentException.class, () -> report.decode(badMagic, badMagic.length));
+    }
+}
@@ -0,0 +1,49 @@
+package com.smartproctor.backend.service;
+
+import com.smartproctor.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExamRosterTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private ExamRoster examRoster;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        examRoster = new ExamRoster(studentRepository);
+    }
+
+    @Test
+    void testIsRegistered_PicksUpStudentAddedAfterRosterLoaded() {
+        // GIVEN: roster cached with student 1 only; student 2 registers later elsewhere
+        when(studentRepository.findIdsByExamCode("TEST_101")).thenReturn(List.of(1L));
+        assertTrue(examRoster.isRegistered("TEST_101", 1L));
+        when(studentRepository.existsByIdAndExamSession_ExamCode(2L, "TEST_101")).thenReturn(true);
+
+        // WHEN / THEN: the miss is checked against the DB once, then served from the cache
+        assertTrue(examRoster.isRegistered("TEST_101", 2L));
+        assertTrue(examRoster.isRegistered("TEST_101", 2L));
+        verify(studentRepository, times(1)).existsByIdAndExamSession_ExamCode(2L, "TEST_101");
+        verify(studentRepository, times(1)).findIdsByExamCode("TEST_101");
+    }
+
+    @Test
+    void testIsRegistered_RejectsStudentFromAnotherExam() {
+        // GIVEN
+        when(studentRepository.findIdsByExamCode("TEST_101")).thenReturn(List.of(1L));
+
+        // WHEN / THEN
+        assertFalse(examRoster.isRegistered("TEST_101", 99L));
+    }
+}
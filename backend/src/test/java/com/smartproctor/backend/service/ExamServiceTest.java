@@ -0,0 +1,85 @@
+package com.smartproctor.backend.service;
+
+import com.smartproctor.backend.dto.CheatReportDTO;
+import com.smartproctor.backend.model.CheatIncident;
+import com.smartproctor.backend.repository.CheatIncidentRepository;
+import com.smartproctor.backend.repository.ExamSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExamServiceTest {
+
+    @Mock
+    private ExamSessionRepository examRepository;
+
+    @Mock
+    private CheatIncidentRepository incidentRepository;
+
+    @Mock
+    private ViolationScoringService scoringService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private ExamRoster examRoster;
+
+    @InjectMocks
+    private ExamService examService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private CheatReportDTO report(Long studentId) {
+        CheatReportDTO report = new CheatReportDTO();
+        report.setSession_id("TEST_101");
+        report.setReason("PHONE_DETECTED");
+        report.setConfidence("HIGH");
+        report.setStudent_id(studentId);
+        return report;
+    }
+
+    @Test
+    void testLogCheatIncident_RejectsStudentNotOnRoster() {
+        // GIVEN
+        when(examRoster.isRegistered("TEST_101", 7L)).thenReturn(false);
+
+        // WHEN / THEN
+        assertThrows(RuntimeException.class, () -> examService.logCheatIncident(report(7L)));
+        verify(incidentRepository, never()).save(any());
+        verifyNoInteractions(scoringService, studentService);
+    }
+
+    @Test
+    void testLogCheatIncident_ReleasesBanWhenTerminateFails() {
+        // GIVEN
+        when(examRoster.isRegistered("TEST_101", 1L)).thenReturn(true);
+        when(scoringService.record(eq(1L), eq("PHONE_DETECTED"), anyDouble(), anyLong()))
+                .thenReturn(new ViolationScoringService.ScoreDecision(3.0, true));
+        doThrow(new RuntimeException("DB down")).when(studentService).terminateExam(1L);
+
+        // WHEN / THEN
+        assertThrows(RuntimeException.class, () -> examService.logCheatIncident(report(1L)));
+        verify(incidentRepository).save(any(CheatIncident.class));
+        verify(scoringService).releaseBan(1L);
+    }
+
+    @Test
+    void testLogCheatIncident_AnonymousReportIsOnlyLogged() {
+        // WHEN
+        examService.logCheatIncident(report(null));
+
+        // THEN
+        verify(incidentRepository).save(any(CheatIncident.class));
+        verifyNoInteractions(examRoster, scoringService, studentService);
+    }
+}
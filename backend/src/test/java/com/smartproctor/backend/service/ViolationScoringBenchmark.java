@@ -0,0 +1,39 @@
+package com.smartproctor.backend.service;
+
+import com.smartproctor.backend.config.ScoringProperties;
+import com.smartproctor.backend.model.ConfidenceLevel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not part of "mvn test": run with "mvn test -Pbenchmark"
+class ViolationScoringBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private static final int EVENTS = 1_000_000;
+
+    @Test
+    void benchmarkPolicyEvaluation_AtLeastOneHundredThousandEventsPerSecond() {
+        ScoringProperties properties = new ScoringProperties();
+        ScoringProperties.Policy phonePolicy = new ScoringProperties.Policy();
+        phonePolicy.setWeight(2.0);
+        properties.getPolicies().put("PHONE_DETECTED", phonePolicy);
+        ViolationScoringService scoringService = new ViolationScoringService(properties);
+
+        // Warm-up, so the JIT has compiled the hot path before we time it
+        for (int i = 0; i < 200_000; i++) {
+            scoringService.record(i % STUDENTS, "LOOKING_AWAY", ConfidenceLevel.MEDIUM.getWeight(), i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            scoringService.record(i % STUDENTS, (i & 7) == 0 ? "PHONE_DETECTED" : "LOOKING_AWAY", 0.6, i);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double eventsPerSecond = EVENTS / (elapsed / 1e9);
+        System.out.printf("Violation scoring: %.0f events/sec, %.0f ns/event%n",
+                eventsPerSecond, (double) elapsed / EVENTS);
+        assertTrue(eventsPerSecond > 100_000, "Scoring too slow: " + eventsPerSecond + " events/sec");
+    }
+}
@@ -0,0 +1,144 @@
+package com.smartproctor.backend.service;
+
+import com.smartproctor.backend.config.ScoringProperties;
+import com.smartproctor.backend.model.ConfidenceLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationScoringServiceTest {
+
+    private ViolationScoringService scoringService;
+
+    @BeforeEach
+    void setUp() {
+        ScoringProperties properties = new ScoringProperties();
+        properties.setHalfLife(Duration.ofMinutes(1));
+
+        ScoringProperties.Policy phonePolicy = new ScoringProperties.Policy();
+        phonePolicy.setWeight(2.0);
+        phonePolicy.setBanThreshold(2.0);
+        properties.getPolicies().put("PHONE_DETECTED", phonePolicy);
+
+        scoringService = new ViolationScoringService(properties);
+    }
+
+    @Test
+    void testRecord_DefaultPolicyBansOnThirdHighConfidenceViolation() {
+        // GIVEN / WHEN
+        ViolationScoringService.ScoreDecision first = scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), 0L);
+        ViolationScoringService.ScoreDecision second = scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), 0L);
+        ViolationScoringService.ScoreDecision third = scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), 0L);
+
+        // THEN
+        assertFalse(first.banTriggered());
+        assertFalse(second.banTriggered());
+        assertTrue(third.banTriggered());
+        assertEquals(3.0, third.score(), 1e-9);
+    }
+
+    @Test
+    void testRecord_ConfidenceScalesWeight() {
+        // WHEN
+        double low = scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("LOW"), 0L).score();
+        double numeric = scoringService.record(2L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("0.8"), 0L).score();
+        double garbage = scoringService.record(3L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("certainly"), 0L).score();
+
+        // THEN
+        assertEquals(0.25, low, 1e-9);
+        assertEquals(0.8, numeric, 1e-9);
+        assertEquals(0.5, garbage, 1e-9); // Unreadable confidence counts as MEDIUM
+    }
+
+    @Test
+    void testRecord_ScoreDecaysByHalfLife() {
+        // GIVEN
+        scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), 0L);
+        scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), 0L);
+
+        // WHEN (one half-life later)
+        double score = scoringService.currentScore(1L, Duration.ofMinutes(1).toMillis());
+
+        // THEN
+        assertEquals(1.0, score, 1e-9);
+        assertFalse(scoringService.record(1L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), Duration.ofMinutes(1).toMillis()).banTriggered());
+    }
+
+    @Test
+    void testRecord_PerTypePolicyAndBanReportedOnce() {
+        // WHEN
+        ViolationScoringService.ScoreDecision phone = scoringService.record(1L, "phone_detected", ConfidenceLevel.parseWeight("HIGH"), 0L);
+        ViolationScoringService.ScoreDecision again = scoringService.record(1L, "PHONE_DETECTED", ConfidenceLevel.parseWeight("HIGH"), 0L);
+
+        // THEN
+        assertTrue(phone.banTriggered());
+        assertFalse(again.banTriggered());
+        assertEquals(0.0, scoringService.currentScore(99L, 0L));
+    }
+
+    @Test
+    void testReleaseBan_NextViolationTriggersBanAgain() {
+        // GIVEN: the ban fired but could not be saved
+        assertTrue(scoringService.record(1L, "PHONE_DETECTED", ConfidenceLevel.parseWeight("HIGH"), 0L).banTriggered());
+        scoringService.releaseBan(1L);
+
+        // WHEN / THEN
+        assertTrue(scoringService.record(1L, "PHONE_DETECTED", ConfidenceLevel.parseWeight("HIGH"), 0L).banTriggered());
+    }
+
+    @Test
+    void testRecord_EvictsDecayedStudentsInsteadOfGrowing() {
+        // GIVEN: enough students to fill the table, all long since forgiven an hour later
+        for (long id = 1; id <= 512; id++) {
+            scoringService.record(id, "LOOKING_AWAY", ConfidenceLevel.parseWeight("LOW"), 0L);
+        }
+        long anHourLater = Duration.ofHours(1).toMillis();
+
+        // WHEN: a new student arrives and the table is full
+        scoringService.record(10_000L, "LOOKING_AWAY", ConfidenceLevel.parseWeight("HIGH"), anHourLater);
+
+        // THEN
+        assertEquals(1, scoringService.trackedStudents());
+        assertEquals(0.0, scoringService.currentScore(1L, anHourLater));
+        assertEquals(1.0, scoringService.currentScore(10_000L, anHourLater), 1e-9);
+    }
+
+    @Test
+    void testRecord_SteadyStateChurnSweepsRarely() {
+        // GIVEN: a student arrives every 545 ms and a LOW violation decays to nothing in ~279 s,
+        // so about 512 students are live at any time: exactly half of the initial capacity
+        int arrivals = 20_000;
+
+        // WHEN
+        for (int i = 0; i < arrivals; i++) {
+            scoringService.record(i + 1L, "LOOKING_AWAY", ConfidenceLevel.LOW.getWeight(), i * 545L);
+        }
+
+        // THEN: sweeps are paid for by Θ(capacity) inserts each, not one per arrival
+        assertTrue(scoringService.sweepCount() < 100, "Too many sweeps: " + scoringService.sweepCount());
+        assertTrue(scoringService.trackedStudents() < 2048);
+    }
+
+    @Test
+    void testRecord_IgnoresDefaultLocaleWhenMatchingNames() {
+        Locale original = Locale.getDefault();
+        try {
+            // GIVEN: Turkish upper-cases "i" to a dotted capital İ
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            // WHEN
+            ViolationScoringService.ScoreDecision phone =
+                    scoringService.record(1L, "phone_detected", ConfidenceLevel.parseWeight("high"), 0L);
+
+            // THEN
+            assertEquals(ConfidenceLevel.HIGH.getWeight(), ConfidenceLevel.parseWeight("high"));
+            assertTrue(phone.banTriggered());
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+}
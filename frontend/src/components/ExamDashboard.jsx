@@ -8,7 +8,8 @@ const ExamDashboard = () => {
 
     const [status, setStatus] = useState({
         name: 'Loading...',
-        strikeCount: 0,
+        riskScore: 0,
+        riskLimit: 1,
         banned: false
     });
 
@@ -41,6 +42,8 @@ const ExamDashboard = () => {
 
     // DYNAMIC STYLES based on status
     const isBanned = status.banned;
+    // Risk meter: three segments filling up towards the ban threshold
+    const riskLevel = Math.min(3, Math.floor(3 * status.riskScore / (status.riskLimit || 1)));
 
     return (
         <div className="container d-flex justify-content-center">
@@ -68,13 +71,13 @@ const ExamDashboard = () => {
                         {/* ------------------------------- */}
 
                         <div className="row g-2 mb-5 justify-content-center">
-                            {[1, 2, 3].map((strike) => (
-                                <div key={strike} className="col-auto">
+                            {[1, 2, 3].map((segment) => (
+                                <div key={segment} className="col-auto">
                                     <div style={{
                                         width: '60px', height: '10px',
                                         borderRadius: '5px',
-                                        background: strike <= status.strikeCount ? '#ef4444' : 'rgba(255,255,255,0.1)',
-                                        boxShadow: strike <= status.strikeCount ? '0 0 10px #ef4444' : 'none',
+                                        background: segment <= riskLevel ? '#ef4444' : 'rgba(255,255,255,0.1)',
+                                        boxShadow: segment <= riskLevel ? '0 0 10px #ef4444' : 'none',
                                         transition: 'all 0.3s'
                                     }}></div>
                                 </div>